@@ -12,6 +12,11 @@ import java.util.stream.Collectors;
 /**
  * A {@link io.burt.jmespath.Adapter JMESPath runtime adapter} for the
  * Kafka Connect data types.
+ *
+ * <p>The runtime is stateless and thread-safe: it keeps no mutable
+ * fields, and every method only allocates per-call state. A single
+ * instance, as well as any {@link io.burt.jmespath.Expression} compiled
+ * with it, can therefore be shared freely between threads.
  */
 public class ConnectJMESPathRuntime extends BaseRuntime<Object> {
 
@@ -15,6 +15,10 @@ import java.util.Map;
  * evaluates to a JSON value that is "truthy" (every value other then
  * null, false, or an empty string, array or object).
  *
+ * <p>Once configured, a predicate instance is thread-safe and may be
+ * shared between tasks or threads. The compiled query is immutable and
+ * safely published to all threads calling {@link #test}.
+ *
  * @see Key
  * @see Value
  * @see <a href="https://jmespath.org/">JMESPath</a>
@@ -29,8 +33,9 @@ public abstract class MatchesJMESPath<R extends ConnectRecord<R>> implements Pre
             ConfigDef.Importance.HIGH,
             "The JMESPath query to evaluate for each record.");
 
-    private final ConnectJMESPathRuntime runtime = new ConnectJMESPathRuntime();
-    private Expression<Object> expression;
+    private static final ConnectJMESPathRuntime RUNTIME = new ConnectJMESPathRuntime();
+
+    private volatile Expression<Object> expression;
 
     @Override
     public ConfigDef config() {
@@ -41,7 +46,7 @@ public abstract class MatchesJMESPath<R extends ConnectRecord<R>> implements Pre
     public void configure(Map<String, ?> configs) {
         String query = (String) configs.get("query");
         try {
-            expression = runtime.compile(query);
+            expression = RUNTIME.compile(query);
         } catch (ParseException e) {
             throw new ConfigException("query", query, e.getMessage());
         }
@@ -49,8 +54,12 @@ public abstract class MatchesJMESPath<R extends ConnectRecord<R>> implements Pre
 
     @Override
     public boolean test(R record) {
+        Expression<Object> expression = this.expression;
+        if (expression == null) {
+            throw new IllegalStateException("Predicate has not been configured");
+        }
         Object result = expression.search(dataToMatch(record));
-        return runtime.isTruthy(result);
+        return RUNTIME.isTruthy(result);
     }
 
     @Override
@@ -6,9 +6,17 @@ import org.apache.kafka.connect.data.Struct;
 import org.apache.kafka.connect.sink.SinkRecord;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class MatchesJMESPathTest {
@@ -81,4 +89,71 @@ class MatchesJMESPathTest {
         assertFalse(predicate.test(EXAMPLE_RECORD));
     }
 
-}
\ No newline at end of file
+    @Test
+    void unconfigured() {
+        MatchesJMESPath.Value<SinkRecord> predicate =
+                new MatchesJMESPath.Value<>();
+
+        assertThrows(IllegalStateException.class,
+                () -> predicate.test(EXAMPLE_RECORD));
+    }
+
+    @Test
+    void concurrentTests() throws Exception {
+        MatchesJMESPath.Value<SinkRecord> predicate =
+                new MatchesJMESPath.Value<>();
+
+        predicate.configure(Collections.singletonMap(
+                "query", "address.city == 'Berlin'"));
+
+        Struct otherUser = new Struct(USER_SCHEMA)
+                .put("email", "bob@example.com")
+                .put("name", "Bob Example")
+                .put("address", new Struct(ADDRESS_SCHEMA)
+                        .put("street", "Main St. 1")
+                        .put("postalCode", "10001")
+                        .put("city", "New York")
+                        .put("country", "US"));
+
+        SinkRecord otherRecord = new SinkRecord(
+                "topic",
+                0,
+                Schema.STRING_SCHEMA,
+                "bob@example.com",
+                USER_SCHEMA,
+                otherUser,
+                1);
+
+        int threads = 8;
+        int iterations = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+
+        try {
+            List<Future<Integer>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    int failures = 0;
+                    for (int i = 0; i < iterations; i++) {
+                        if (!predicate.test(EXAMPLE_RECORD)) {
+                            failures++;
+                        }
+                        if (predicate.test(otherRecord)) {
+                            failures++;
+                        }
+                    }
+                    return failures;
+                }));
+            }
+
+            start.countDown();
+
+            for (Future<Integer> future : futures) {
+                assertEquals(0, future.get(), "failed evaluations");
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}